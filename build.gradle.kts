@@ -11,6 +11,14 @@ configurations {
     }
 }
 
+// load test source set (src/loadTest) - 애플리케이션을 랜덤 포트로 띄우고 부하를 주는 테스트
+val loadTest: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+configurations[loadTest.implementationConfigurationName].extendsFrom(configurations.testImplementation.get())
+configurations[loadTest.runtimeOnlyConfigurationName].extendsFrom(configurations.testRuntimeOnly.get())
+
 allprojects {
     group = property("app.group").toString()
 }
@@ -23,10 +31,12 @@ dependencyManagement {
 
 dependencies {
     implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.actuator)
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
     testImplementation(libs.spring.boot.starter.test)
+    "loadTestImplementation"(libs.hdrhistogram)
 }
 
 // about source and compilation
@@ -50,3 +60,80 @@ tasks.test {
     ignoreFailures = true
     useJUnitPlatform()
 }
+
+// ./gradlew loadTest -Ploadtest.rate=200 -Ploadtest.duration=PT30S ...
+// loadtest.* 프로젝트 프로퍼티는 그대로 테스트 JVM 의 시스템 프로퍼티로 전달된다.
+tasks.register<Test>("loadTest") {
+    description = "Runs the point API load test and writes latency reports to build/reports/loadtest."
+    group = "verification"
+    testClassesDirs = loadTest.output.classesDirs
+    classpath = loadTest.runtimeClasspath
+    useJUnitPlatform()
+    shouldRunAfter(tasks.test)
+
+    systemProperty("loadtest.report-dir", layout.buildDirectory.dir("reports/loadtest").get().asFile.absolutePath)
+    project.properties
+        .filterKeys { it.startsWith("loadtest.") }
+        .forEach { (key, value) -> systemProperty(key, value.toString()) }
+
+    // 같은 코드라도 실행할 때마다 측정값이 다르므로 항상 실행..
+    outputs.upToDateWhen { false }
+    testLogging {
+        showStandardStreams = true
+    }
+}
+
+// fast startup - class data sharing (CDS) archive
+// ./gradlew cdsArchive 후 build/cds/app/run.sh 로 실행 (JAVA_OPTS 로 -Dpoint.warmup.enabled=true 등 전달)
+// CDS 는 fat jar 안의 중첩 jar 를 공유할 수 없으므로, 일반 jar 들로 이루어진 classpath 로 구성한다.
+val cdsAppJar = tasks.register<Jar>("cdsAppJar") {
+    description = "Packages the main classes as a plain jar for the CDS layout."
+    group = "build"
+    archiveClassifier.set("cds")
+    from(sourceSets.main.get().output)
+}
+
+val cdsLayout = tasks.register<Sync>("cdsLayout") {
+    description = "Copies the app jar and its runtime dependencies into build/cds/app."
+    group = "build"
+    from(cdsAppJar) { rename { "app.jar" } }
+    from(configurations.runtimeClasspath) { into("lib") }
+    into(layout.buildDirectory.dir("cds/app"))
+}
+
+tasks.register<Exec>("cdsArchive") {
+    description = "Trains build/cds/app/app.jsa by starting the app until the context is refreshed."
+    group = "build"
+    dependsOn(cdsLayout)
+
+    val appDir = layout.buildDirectory.dir("cds/app").get().asFile
+    // archive 는 학습한 JVM 에서만 사용되므로, run.sh 도 PATH 의 java 가 아닌 같은 java 로 실행한다.
+    val java = "${System.getProperty("java.home")}/bin/java"
+    workingDir = appDir
+
+    doFirst {
+        // 학습 실행과 실제 실행의 classpath 가 같아야 archive 가 사용된다.
+        val classpath = (listOf("app.jar") + appDir.resolve("lib").list()!!.sorted().map { "lib/$it" })
+            .joinToString(File.pathSeparator)
+        val mainClass = "io.hhplus.tdd.TddApplication"
+
+        commandLine(
+            java,
+            "-XX:ArchiveClassesAtExit=app.jsa",
+            "-Dspring.context.exit=onRefresh",
+            "-cp", classpath,
+            mainClass,
+        )
+
+        appDir.resolve("run.sh").apply {
+            writeText(
+                """
+                |#!/bin/sh
+                |cd "${'$'}(dirname "${'$'}0")" || exit 1
+                |exec "$java" ${'$'}JAVA_OPTS -XX:SharedArchiveFile=app.jsa -cp "$classpath" $mainClass "${'$'}@"
+                |""".trimMargin(),
+            )
+            setExecutable(true)
+        }
+    }
+}
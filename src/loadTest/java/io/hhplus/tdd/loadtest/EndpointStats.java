@@ -0,0 +1,66 @@
+package io.hhplus.tdd.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트 하나의 지연 시간 분포와 응답 결과 집계
+ * - ok : 2xx
+ * - rejected : 4xx (잔고 부족 등 비즈니스 예외)
+ * - errors : 5xx 또는 전송 실패
+ * - dropped : max-in-flight 를 넘어 보내지 못한 요청
+ */
+public final class EndpointStats {
+
+    // 1us ~ 1h 범위를 유효숫자 3자리로 기록 (단위: ns)
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.HOURS.toNanos(1);
+
+    private final Histogram latencies = new ConcurrentHistogram(1_000L, HIGHEST_TRACKABLE_NANOS, 3);
+    private final LongAdder ok = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    public void record(final int statusCode, final long latencyNanos) {
+        latencies.recordValue(Math.min(Math.max(latencyNanos, 1_000L), HIGHEST_TRACKABLE_NANOS));
+
+        if (statusCode >= 200 && statusCode < 300) {
+            ok.increment();
+        } else if (statusCode >= 400 && statusCode < 500) {
+            rejected.increment();
+        } else {
+            errors.increment();
+        }
+    }
+
+    public void recordFailure(final long latencyNanos) {
+        record(-1, latencyNanos);
+    }
+
+    public void recordDropped() {
+        dropped.increment();
+    }
+
+    public Histogram latencies() {
+        return latencies;
+    }
+
+    public long ok() {
+        return ok.sum();
+    }
+
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    public long errors() {
+        return errors.sum();
+    }
+
+    public long dropped() {
+        return dropped.sum();
+    }
+}
@@ -0,0 +1,28 @@
+package io.hhplus.tdd.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ./gradlew loadTest -Ploadtest.base-url=http://localhost:8080 -Ploadtest.warmup=PT0S
+ * 이미 떠 있는 서버에 부하를 준다. 막 기동한 서버에 예열 없이 부하를 주면,
+ * summary.json 의 timeToPeakThroughputSeconds 가 최대 처리량에 도달하기까지 걸린 시간이 된다.
+ */
+@EnabledIfSystemProperty(named = "loadtest.base-url", matches = ".+")
+class ExternalPointLoadTest {
+
+    @Test
+    @DisplayName("loadtest.base-url 로 지정된 서버에 부하를 주고 지연 시간 리포트를 남긴다.")
+    public void runLoadTest() throws Exception {
+        final LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        final Path runDir = LoadTestRunner.run(settings.baseUrl(), settings);
+
+        assertThat(Files.exists(runDir.resolve("summary.json"))).isTrue();
+    }
+}
@@ -0,0 +1,93 @@
+package io.hhplus.tdd.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과를 실행 단위 디렉터리({label}-{시각}) 에 기록한다.
+ * - summary.json : 설정, 엔드포인트별 건수/지연 시간 백분위 (ms), 초당 처리량 추이 - 실행 간 비교용
+ * - {endpoint}.hgrm : HdrHistogram 백분위 분포 (ms) - HdrHistogram plotter 로 그래프를 그릴 수 있다
+ */
+public final class LatencyReportWriter {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final DateTimeFormatter RUN_ID_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    public Path write(final LoadTestSettings settings,
+                      final Duration measured,
+                      final LoadTestResult result) throws IOException {
+        final Map<PointEndpoint, EndpointStats> stats = result.stats();
+        final Instant finishedAt = Instant.now();
+        final Path runDir = settings.reportDir().resolve(settings.label() + "-" + RUN_ID_FORMAT.format(finishedAt));
+        Files.createDirectories(runDir);
+
+        final Map<String, Object> endpoints = new LinkedHashMap<>();
+        final Histogram total = new Histogram(3);
+        for (Map.Entry<PointEndpoint, EndpointStats> entry : stats.entrySet()) {
+            final EndpointStats endpointStats = entry.getValue();
+            endpoints.put(entry.getKey().name(), summarize(endpointStats, measured));
+            total.add(endpointStats.latencies());
+
+            try (PrintStream out = new PrintStream(Files.newOutputStream(runDir.resolve(entry.getKey().name().toLowerCase() + ".hgrm")))) {
+                endpointStats.latencies().outputPercentileDistribution(out, NANOS_PER_MILLI);
+            }
+        }
+
+        final Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("label", settings.label());
+        summary.put("finishedAt", finishedAt.toString());
+        summary.put("settings", Map.of(
+                "rate", settings.rate(),
+                "warmup", settings.warmup().toString(),
+                "duration", settings.duration().toString(),
+                "users", settings.users(),
+                "zipfExponent", settings.zipfExponent(),
+                "mix", settings.mix()
+        ));
+        summary.put("total", latencySummary(total, measured));
+        summary.put("endpoints", endpoints);
+        summary.put("timeToPeakThroughputSeconds", result.timeToPeakThroughputSeconds());
+        summary.put("completionsPerSecond", result.completionsPerSecond());
+        summary.put("failuresPerSecond", result.failuresPerSecond());
+
+        objectMapper.writeValue(runDir.resolve("summary.json").toFile(), summary);
+        return runDir;
+    }
+
+    private static Map<String, Object> summarize(final EndpointStats stats, final Duration measured) {
+        final Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("ok", stats.ok());
+        summary.put("rejected", stats.rejected());
+        summary.put("errors", stats.errors());
+        summary.put("dropped", stats.dropped());
+        summary.putAll(latencySummary(stats.latencies(), measured));
+        return summary;
+    }
+
+    private static Map<String, Object> latencySummary(final Histogram histogram, final Duration measured) {
+        final Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", histogram.getTotalCount());
+        summary.put("throughputPerSecond", histogram.getTotalCount() / Math.max(measured.toMillis() / 1000.0, 0.001));
+        summary.put("meanMillis", histogram.getMean() / NANOS_PER_MILLI);
+        summary.put("p50Millis", histogram.getValueAtPercentile(50) / NANOS_PER_MILLI);
+        summary.put("p90Millis", histogram.getValueAtPercentile(90) / NANOS_PER_MILLI);
+        summary.put("p99Millis", histogram.getValueAtPercentile(99) / NANOS_PER_MILLI);
+        summary.put("p999Millis", histogram.getValueAtPercentile(99.9) / NANOS_PER_MILLI);
+        summary.put("maxMillis", histogram.getMaxValue() / NANOS_PER_MILLI);
+        return summary;
+    }
+}
@@ -0,0 +1,35 @@
+package io.hhplus.tdd.loadtest;
+
+import java.util.Map;
+
+/**
+ * 부하 실행 한 번의 결과
+ * - stats : 엔드포인트별 집계
+ * - completionsPerSecond : 부하 시작 후 i 초 구간에 2xx/4xx 응답이 돌아온 요청 수 (처리량 추이)
+ * - failuresPerSecond : 부하 시작 후 i 초 구간에 5xx, timeout, 전송 실패로 끝난 요청 수
+ */
+public record LoadTestResult(
+        Map<PointEndpoint, EndpointStats> stats,
+        long[] completionsPerSecond,
+        long[] failuresPerSecond
+) {
+    private static final double PEAK_RATIO = 0.95;
+
+    /**
+     * 처리량이 처음으로 최대 처리량의 95% 에 도달한 구간(초) 을 반환한다.
+     * 콜드 스타트 직후 부하를 주면, JIT 예열 등으로 최대 처리량에 도달하기까지 걸린 시간이 된다.
+     * 실패(failuresPerSecond) 는 처리량에 포함하지 않는다.
+     */
+    public int timeToPeakThroughputSeconds() {
+        long peak = 0;
+        for (long completions : completionsPerSecond) {
+            peak = Math.max(peak, completions);
+        }
+        for (int i = 0; i < completionsPerSecond.length; i++) {
+            if (completionsPerSecond[i] >= peak * PEAK_RATIO) {
+                return i;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,32 @@
+package io.hhplus.tdd.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadTestResultTest {
+
+    @Test
+    @DisplayName("처리량이 처음으로 최대 처리량의 95% 에 도달한 구간(초) 을 반환 해야 한다.")
+    public void givenRampingTimeline_whenCallingTimeToPeakThroughputSeconds_thenReturnsFirstSecondNearPeak() {
+        LoadTestResult result = new LoadTestResult(Map.of(), new long[]{10, 40, 96, 100, 98}, new long[5]);
+
+        assertThat(result.timeToPeakThroughputSeconds()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("timeout 등 실패가 한꺼번에 몰린 구간이 있어도, 최대 처리량 도달 시점으로 보지 않아야 한다.")
+    public void givenFailureBurst_whenCallingTimeToPeakThroughputSeconds_thenIgnoresFailures() {
+        // 4 초 구간에 응답은 20 건 뿐이고 500 건이 timeout 으로 끝난 경우..
+        LoadTestResult result = new LoadTestResult(
+                Map.of(),
+                new long[]{10, 50, 100, 100, 20},
+                new long[]{0, 0, 0, 0, 500}
+        );
+
+        assertThat(result.timeToPeakThroughputSeconds()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,32 @@
+package io.hhplus.tdd.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * 예열 후 측정 구간의 결과를 리포트로 남긴다.
+ */
+final class LoadTestRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestRunner.class);
+
+    private LoadTestRunner() {
+    }
+
+    static Path run(final String baseUrl, final LoadTestSettings settings) throws IOException, InterruptedException {
+        final OpenModelLoadGenerator generator = new OpenModelLoadGenerator(baseUrl, settings);
+
+        // 예열 구간의 결과는 버린다. (콜드 스타트 측정 시에는 loadtest.warmup=PT0S)
+        if (!settings.warmup().isZero()) {
+            generator.run(settings.warmup());
+        }
+        final LoadTestResult result = generator.run(settings.duration());
+
+        final Path runDir = new LatencyReportWriter().write(settings, settings.duration(), result);
+        log.info("load test report : {}", runDir.toAbsolutePath());
+        return runDir;
+    }
+}
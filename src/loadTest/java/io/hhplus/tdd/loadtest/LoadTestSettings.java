@@ -0,0 +1,78 @@
+package io.hhplus.tdd.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (시스템 프로퍼티 loadtest.* 로 변경 가능)
+ * - label : 리포트 파일 이름에 붙는 실행 이름 (예: 동시성 전략 이름)
+ * - rate : 초당 요청 수 (open model - 응답과 상관없이 일정한 간격으로 요청을 보낸다)
+ * - warmup / duration : 측정하지 않는 예열 시간 / 측정 시간
+ * - users : 요청 대상 회원 수 (1 ~ users)
+ * - zipf-exponent : 회원 선택 쏠림 정도 (0 이면 균등, 클수록 소수의 회원에 요청이 몰린다)
+ * - mix : 엔드포인트별 요청 비율 (예: point=60,histories=10,rank=5,charge=15,use=10)
+ * - charge-amount / use-amount : 충전/사용 요청 금액
+ * - max-in-flight : 응답을 기다리는 요청 수 상한 (넘으면 보내지 않고 dropped 로 기록)
+ * - request-timeout : 요청 하나의 응답 대기 시간 (넘으면 errors 로 기록)
+ * - base-url : 지정하면 애플리케이션을 띄우지 않고 이미 떠 있는 서버(예: CDS 로 기동한 서버) 에 부하를 준다
+ */
+public record LoadTestSettings(
+        String label,
+        int rate,
+        Duration warmup,
+        Duration duration,
+        int users,
+        double zipfExponent,
+        Map<PointEndpoint, Integer> mix,
+        long chargeAmount,
+        long useAmount,
+        int maxInFlight,
+        Duration requestTimeout,
+        String baseUrl,
+        Path reportDir
+) {
+    private static final String PREFIX = "loadtest.";
+
+    public LoadTestSettings {
+        // 0 이하면 요청 간격을 계산할 수 없다. (0 으로 나누거나 음수 간격으로 요청을 몰아서 보내게 된다)
+        if (rate <= 0) {
+            throw new IllegalArgumentException("loadtest.rate 는 0 보다 커야 합니다. : " + rate);
+        }
+    }
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                property("label", "default"),
+                Integer.parseInt(property("rate", "50")),
+                Duration.parse(property("warmup", "PT5S")),
+                Duration.parse(property("duration", "PT20S")),
+                Integer.parseInt(property("users", "100")),
+                Double.parseDouble(property("zipf-exponent", "1.0")),
+                parseMix(property("mix", "point=60,histories=10,rank=5,charge=15,use=10")),
+                Long.parseLong(property("charge-amount", "1000")),
+                Long.parseLong(property("use-amount", "100")),
+                Integer.parseInt(property("max-in-flight", "10000")),
+                Duration.parse(property("request-timeout", "PT30S")),
+                property("base-url", ""),
+                Path.of(property("report-dir", "build/reports/loadtest"))
+        );
+    }
+
+    private static String property(final String key, final String defaultValue) {
+        return System.getProperty(PREFIX + key, defaultValue);
+    }
+
+    private static Map<PointEndpoint, Integer> parseMix(final String mix) {
+        final Map<PointEndpoint, Integer> weights = new EnumMap<>(PointEndpoint.class);
+        for (String entry : mix.split(",")) {
+            final String[] keyAndWeight = entry.trim().split("=");
+            if (keyAndWeight.length != 2) {
+                throw new IllegalArgumentException("loadtest.mix 형식이 올바르지 않습니다. : " + mix);
+            }
+            weights.put(PointEndpoint.valueOf(keyAndWeight[0].trim().toUpperCase()), Integer.parseInt(keyAndWeight[1].trim()));
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,146 @@
+package io.hhplus.tdd.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open model 부하 생성기.
+ *
+ * 응답을 기다리지 않고 정해진 시각(start + i / rate) 마다 요청을 보내며,
+ * 지연 시간은 실제 전송 시각이 아닌 "보냈어야 하는 시각" 부터 측정한다.
+ * 서버가 밀려서 요청 전송이 늦어진 시간까지 지연 시간에 포함되도록.. (coordinated omission 보정)
+ */
+public final class OpenModelLoadGenerator {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final String baseUrl;
+    private final LoadTestSettings settings;
+    private final HttpClient httpClient;
+    private final ZipfianGenerator userIds;
+    private final List<PointEndpoint> endpoints = new ArrayList<>();
+    private final List<Integer> cumulativeWeights = new ArrayList<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public OpenModelLoadGenerator(final String baseUrl, final LoadTestSettings settings) {
+        this.baseUrl = baseUrl;
+        this.settings = settings;
+        this.httpClient = HttpClient.newBuilder()
+                                    .version(HttpClient.Version.HTTP_1_1)
+                                    .connectTimeout(Duration.ofSeconds(5))
+                                    .build();
+        this.userIds = new ZipfianGenerator(settings.users(), settings.zipfExponent());
+
+        int sum = 0;
+        for (Map.Entry<PointEndpoint, Integer> entry : settings.mix().entrySet()) {
+            if (entry.getValue() > 0) {
+                sum += entry.getValue();
+                endpoints.add(entry.getKey());
+                cumulativeWeights.add(sum);
+            }
+        }
+        if (endpoints.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix 에 요청 비율이 0 보다 큰 엔드포인트가 하나 이상 있어야 합니다.");
+        }
+    }
+
+    /**
+     * duration 동안 부하를 주고, 보낸 요청의 응답이 모두 돌아올 때까지 기다린 뒤 결과를 반환한다.
+     */
+    public LoadTestResult run(final Duration duration) throws InterruptedException {
+        final Map<PointEndpoint, EndpointStats> stats = new EnumMap<>(PointEndpoint.class);
+        endpoints.forEach(endpoint -> stats.put(endpoint, new EndpointStats()));
+        // 마지막 요청의 응답은 최대 request-timeout 만큼 늦게 돌아올 수 있다.
+        final int seconds = (int) (duration.toSeconds() + settings.requestTimeout().toSeconds() + 2);
+        // 서버가 밀릴 때 timeout 이 한꺼번에 터진 구간이 최대 처리량으로 잡히지 않도록, 실패는 따로 센다.
+        final AtomicLongArray completionsPerSecond = new AtomicLongArray(seconds);
+        final AtomicLongArray failuresPerSecond = new AtomicLongArray(seconds);
+
+        final long startNanos = System.nanoTime();
+        final long endNanos = startNanos + duration.toNanos();
+
+        for (long i = 0; ; i++) {
+            // 간격(1s / rate) 을 미리 나눠두면 rate 가 1e9 를 넘을 때 0 이 되고, 나누어 떨어지지 않으면 오차가 쌓이므로 매번 계산..
+            final long intendedNanos = startNanos + i * NANOS_PER_SECOND / settings.rate();
+            if (intendedNanos >= endNanos) {
+                break;
+            }
+            waitUntil(intendedNanos);
+
+            final PointEndpoint endpoint = nextEndpoint();
+            final EndpointStats endpointStats = stats.get(endpoint);
+            if (inFlight.get() >= settings.maxInFlight()) {
+                endpointStats.recordDropped();
+                continue;
+            }
+
+            inFlight.incrementAndGet();
+            httpClient.sendAsync(endpoint.request(baseUrl, userIds.next(), settings), HttpResponse.BodyHandlers.discarding())
+                      .whenComplete((response, e) -> {
+                          final long completedNanos = System.nanoTime();
+                          final long latencyNanos = completedNanos - intendedNanos;
+                          final int second = Math.min((int) TimeUnit.NANOSECONDS.toSeconds(completedNanos - startNanos), seconds - 1);
+                          if (e != null) {
+                              endpointStats.recordFailure(latencyNanos);
+                          } else {
+                              endpointStats.record(response.statusCode(), latencyNanos);
+                          }
+                          // 2xx, 4xx 는 서버가 처리한 응답이므로 처리량으로 본다.
+                          if (e == null && response.statusCode() < 500) {
+                              completionsPerSecond.incrementAndGet(second);
+                          } else {
+                              failuresPerSecond.incrementAndGet(second);
+                          }
+                          inFlight.decrementAndGet();
+                      });
+        }
+
+        while (inFlight.get() > 0) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+
+        // 응답이 없는 뒤쪽 구간은 잘라낸다.
+        int length = seconds;
+        while (length > 0 && completionsPerSecond.get(length - 1) == 0 && failuresPerSecond.get(length - 1) == 0) {
+            length--;
+        }
+
+        return new LoadTestResult(stats, toArray(completionsPerSecond, length), toArray(failuresPerSecond, length));
+    }
+
+    private static long[] toArray(final AtomicLongArray counts, final int length) {
+        final long[] timeline = new long[length];
+        for (int i = 0; i < length; i++) {
+            timeline[i] = counts.get(i);
+        }
+        return timeline;
+    }
+
+    private PointEndpoint nextEndpoint() {
+        final int total = cumulativeWeights.get(cumulativeWeights.size() - 1);
+        final int pick = ThreadLocalRandom.current().nextInt(total);
+        for (int i = 0; i < endpoints.size(); i++) {
+            if (pick < cumulativeWeights.get(i)) {
+                return endpoints.get(i);
+            }
+        }
+        return endpoints.get(endpoints.size() - 1);
+    }
+
+    private static void waitUntil(final long nanos) {
+        long remaining;
+        while ((remaining = nanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
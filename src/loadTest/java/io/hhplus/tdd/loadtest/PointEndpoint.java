@@ -0,0 +1,33 @@
+package io.hhplus.tdd.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+
+/**
+ * 부하 대상 엔드포인트
+ */
+public enum PointEndpoint {
+    POINT,
+    HISTORIES,
+    RANK,
+    CHARGE,
+    USE;
+
+    public HttpRequest request(final String baseUrl, final long userId, final LoadTestSettings settings) {
+        final HttpRequest.Builder builder = HttpRequest.newBuilder().timeout(settings.requestTimeout());
+        return switch (this) {
+            case POINT -> builder.uri(URI.create(baseUrl + "/point/" + userId)).GET().build();
+            case HISTORIES -> builder.uri(URI.create(baseUrl + "/point/" + userId + "/histories")).GET().build();
+            case RANK -> builder.uri(URI.create(baseUrl + "/point/" + userId + "/rank")).GET().build();
+            case CHARGE -> patch(builder, baseUrl + "/point/" + userId + "/charge", settings.chargeAmount());
+            case USE -> patch(builder, baseUrl + "/point/" + userId + "/use", settings.useAmount());
+        };
+    }
+
+    private static HttpRequest patch(final HttpRequest.Builder builder, final String url, final long amount) {
+        return builder.uri(URI.create(url))
+                      .header("Content-Type", "application/json")
+                      .method("PATCH", HttpRequest.BodyPublishers.ofString(String.valueOf(amount)))
+                      .build();
+    }
+}
@@ -0,0 +1,33 @@
+package io.hhplus.tdd.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIfSystemProperty;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ./gradlew loadTest 로 실행.
+ * 애플리케이션을 랜덤 포트로 띄우고, 예열 후 측정 구간의 엔드포인트별 지연 시간을 리포트로 남긴다.
+ * PointService 의 동시성 처리 방식을 바꿀 때 같은 설정으로 돌려서 summary.json 을 비교하면 된다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DisabledIfSystemProperty(named = "loadtest.base-url", matches = ".+")
+class PointLoadTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    @DisplayName("설정된 부하(요청 비율, 회원 쏠림, 초당 요청 수)로 포인트 API 를 호출하고 지연 시간 리포트를 남긴다.")
+    public void runLoadTest() throws Exception {
+        final Path runDir = LoadTestRunner.run("http://localhost:" + port, LoadTestSettings.fromSystemProperties());
+
+        assertThat(Files.exists(runDir.resolve("summary.json"))).isTrue();
+    }
+}
@@ -0,0 +1,35 @@
+package io.hhplus.tdd.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 1 ~ n 사이의 값을 Zipf 분포로 뽑는다. (1 이 가장 자주 뽑히는 hot user)
+ * 누적 분포를 미리 계산해두고 이분 탐색으로 뽑으므로, 한 번 뽑는 비용은 O(log n) 이다.
+ */
+public final class ZipfianGenerator {
+
+    private final double[] cumulative;
+
+    public ZipfianGenerator(final int n, final double exponent) {
+        if (n <= 0 || exponent < 0) {
+            throw new IllegalArgumentException("n 은 0 보다 크고, exponent 는 0 이상이어야 합니다.");
+        }
+
+        this.cumulative = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += 1.0 / Math.pow(i + 1, exponent);
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    public long next() {
+        final double u = ThreadLocalRandom.current().nextDouble();
+        final int index = Arrays.binarySearch(cumulative, u);
+        return (index >= 0 ? index : Math.min(-index - 1, cumulative.length - 1)) + 1L;
+    }
+}
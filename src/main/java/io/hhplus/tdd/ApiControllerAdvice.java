@@ -1,5 +1,6 @@
 package io.hhplus.tdd;
 
+import io.hhplus.tdd.exception.IllegalImportRecordException;
 import io.hhplus.tdd.exception.IllegalPointException;
 import io.hhplus.tdd.exception.InsufficientPointException;
 import org.springframework.http.HttpStatus;
@@ -22,6 +23,11 @@ class ApiControllerAdvice extends ResponseEntityExceptionHandler {
         return buildErrorResponseEntity(exception, HttpStatus.BAD_REQUEST.value());
     }
 
+    @ExceptionHandler(value = IllegalImportRecordException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalImportRecordException(IllegalImportRecordException exception) {
+        return buildErrorResponseEntity(exception, HttpStatus.BAD_REQUEST.value());
+    }
+
     @ExceptionHandler(value = Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e) {
         return ResponseEntity.status(500).body(new ErrorResponse("500", "에러가 발생 했습니다."));
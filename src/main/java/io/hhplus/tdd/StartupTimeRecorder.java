@@ -0,0 +1,48 @@
+package io.hhplus.tdd;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.support.ServletRequestHandledEvent;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 기동 시간을 JVM 시작 시각 기준으로 기록한다.
+ * - ready : readiness 가 ACCEPTING_TRAFFIC 이 된 시점 (예열 포함)
+ * - first request : ready 이후 처음으로 처리된 요청이 끝난 시점 (예열 요청, /actuator/** 요청은 제외)
+ *
+ * 최대 처리량에 도달하는 시점은 loadTest 리포트의 timeline 으로 측정한다.
+ */
+@Component
+class StartupTimeRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupTimeRecorder.class);
+
+    private final long jvmStartMillis = ManagementFactory.getRuntimeMXBean().getStartTime();
+    private final AtomicBoolean ready = new AtomicBoolean();
+    private final AtomicBoolean firstRequestRecorded = new AtomicBoolean();
+
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        ready.set(true);
+        log.info("startup - ready {} ms after JVM start (application {} ms)",
+                System.currentTimeMillis() - jvmStartMillis, event.getTimeTaken().toMillis());
+    }
+
+    @EventListener
+    public void onRequestHandled(ServletRequestHandledEvent event) {
+        // readiness/liveness probe 요청은 첫 요청으로 보지 않는다.
+        if (!ready.get() || event.getRequestUrl().startsWith("/actuator/")) {
+            return;
+        }
+        if (!firstRequestRecorded.compareAndSet(false, true)) {
+            return;
+        }
+        log.info("startup - first request handled {} ms after JVM start ({} {} took {} ms)",
+                event.getTimestamp() - jvmStartMillis, event.getMethod(), event.getRequestUrl(), event.getProcessingTimeMillis());
+    }
+}
@@ -0,0 +1,8 @@
+package io.hhplus.tdd.exception;
+
+public final class IllegalImportRecordException extends RuntimeException {
+
+    public IllegalImportRecordException(String message) {
+        super(message);
+    }
+}
@@ -4,8 +4,13 @@ import io.hhplus.tdd.exception.IllegalPointException;
 import io.hhplus.tdd.exception.InsufficientPointException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -15,9 +20,12 @@ public class PointController {
     private static final Logger log = LoggerFactory.getLogger(PointController.class);
 
     private final PointService pointService;
+    private final PointTransferService pointTransferService;
 
-    public PointController(PointService pointService) {
+    public PointController(PointService pointService,
+                           PointTransferService pointTransferService) {
         this.pointService = pointService;
+        this.pointTransferService = pointTransferService;
     }
 
     /**
@@ -40,6 +48,26 @@ public class PointController {
         return pointService.findAllPointHistoryByUserId(id);
     }
 
+    /**
+     * 포인트 잔액 상위 회원 목록을 조회 (최대 100 명)
+     */
+    @GetMapping("leaderboard")
+    public List<PointRank> leaderboard(
+            @RequestParam(defaultValue = "100") int limit
+    ) {
+        return pointService.findLeaderboard(limit);
+    }
+
+    /**
+     * 특정 유저의 포인트 잔액 순위를 조회
+     */
+    @GetMapping("{id}/rank")
+    public PointRank rank(
+            @PathVariable long id
+    ) {
+        return pointService.findPointRankByUserId(id);
+    }
+
     /**
      * TODO - 특정 유저의 포인트를 충전하는 기능을 작성해주세요.
      */
@@ -61,4 +89,24 @@ public class PointController {
     ) {
         return pointService.usePoint(id, amount);
     }
-}
+
+    /**
+     * 전체 회원의 잔액과 이력을 NDJSON 으로 내보내기 (chunked 전송)
+     */
+    @GetMapping(value = "export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        return ResponseEntity.ok()
+                             .contentType(MediaType.APPLICATION_NDJSON)
+                             .body(pointTransferService::exportTo);
+    }
+
+    /**
+     * NDJSON 으로 내보낸 잔액과 이력을 가져오기
+     */
+    @PostMapping(value = "import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public PointImportResult importPoints(
+            InputStream body
+    ) throws IOException {
+        return pointTransferService.importFrom(body);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,146 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 충전 Lot 을 만료 시각 기준의 시간 버킷으로 색인한다.
+ *
+ * PointHistoryTable 전체를 주기적으로 훑지 않고, 이미 끝난 버킷만 꺼내서 소멸 처리할 수 있도록..
+ * - buckets : (만료 시각 / bucketSize) -> 해당 버킷에 속한 Lot 목록
+ * - lotsByUser : 회원별 Lot 목록 (충전 순서, FIFO 차감용)
+ *
+ * register / consume / expire 는 PointService 의 동기화 구간 안에서 호출되어야 한다.
+ * pollDue 는 스케줄러 스레드에서 락 없이 호출될 수 있다.
+ */
+@Component
+public class PointExpiryIndex {
+
+    private final long ttlMillis;
+    private final long bucketMillis;
+
+    private final NavigableMap<Long, Queue<PointLot>> buckets = new ConcurrentSkipListMap<>();
+    private final Map<Long, Deque<PointLot>> lotsByUser = new ConcurrentHashMap<>();
+
+    public PointExpiryIndex(final PointExpiryProperties properties) {
+        this.ttlMillis = properties.ttl().toMillis();
+        this.bucketMillis = properties.bucketSize().toMillis();
+    }
+
+    public PointLot register(final long userId, final long amount, final long chargeMillis) {
+        return register(userId, amount, chargeMillis, chargeMillis);
+    }
+
+    /**
+     * 과거 시각(chargeMillis) 으로 Lot 을 등록한다. (예: 가져오기 한 잔액)
+     * 이미 꺼내고 있는 지나간 버킷에 등록되어 유실되지 않도록, 만료 시각을 최소 nowMillis 의 다음 버킷 이후로 미룬다.
+     */
+    public PointLot register(final long userId, final long amount, final long chargeMillis, final long nowMillis) {
+        final long expireMillis = Math.max(chargeMillis + ttlMillis, nowMillis + bucketMillis);
+        final PointLot lot = new PointLot(userId, amount, chargeMillis, expireMillis);
+
+        lotsByUser.computeIfAbsent(userId, id -> new ArrayDeque<>()).addLast(lot);
+        buckets.computeIfAbsent(bucketOf(lot.expireMillis()), bucket -> new ConcurrentLinkedQueue<>()).add(lot);
+
+        return lot;
+    }
+
+    /**
+     * 먼저 충전된 Lot 부터 차감한다.
+     * Lot 으로 추적되지 않는 잔액(예: Lot 도입 전 잔액)이 있을 수 있으므로, Lot 합계보다 큰 금액이 들어와도 예외로 보지 않는다.
+     */
+    public void consume(final long userId, final long pointToConsume) {
+        final Deque<PointLot> lots = lotsByUser.get(userId);
+        if (lots == null) {
+            return;
+        }
+
+        long left = pointToConsume;
+        while (left > 0 && !lots.isEmpty()) {
+            final PointLot oldest = lots.peekFirst();
+            left -= oldest.consume(left);
+            if (oldest.remaining() == 0) {
+                lots.pollFirst();
+            }
+        }
+
+        if (lots.isEmpty()) {
+            lotsByUser.remove(userId, lots);
+        }
+    }
+
+    /**
+     * 회원의 Lot 을 모두 비운다. 버킷에 남은 Lot 은 잔량이 0 이 되어 소멸 시 건너뛰게 된다.
+     */
+    public void clear(final long userId) {
+        final Deque<PointLot> lots = lotsByUser.remove(userId);
+        if (lots != null) {
+            lots.forEach(PointLot::drain);
+        }
+    }
+
+    /**
+     * Lot 을 만료시키고, 소멸 대상인 남은 포인트를 반환한다.
+     * 이미 모두 사용된 Lot 이라면 0 을 반환한다.
+     */
+    public long expire(final PointLot lot) {
+        final long remaining = lot.drain();
+
+        final Deque<PointLot> lots = lotsByUser.get(lot.userId());
+        if (lots != null) {
+            // 만료 대상은 대부분 가장 오래된 Lot 이므로 앞에서부터 찾으면 바로 제거된다.
+            lots.remove(lot);
+            if (lots.isEmpty()) {
+                lotsByUser.remove(lot.userId(), lots);
+            }
+        }
+
+        return remaining;
+    }
+
+    /**
+     * 완전히 지나간 버킷들에서만 최대 batchSize 개의 Lot 을 꺼낸다.
+     * 아직 진행 중인 버킷은 건드리지 않으므로, 실제 소멸은 만료 시각보다 최대 bucketSize 만큼 늦을 수 있다.
+     */
+    public List<PointLot> pollDue(final long nowMillis, final int batchSize) {
+        final List<PointLot> due = new ArrayList<>(batchSize);
+
+        for (Map.Entry<Long, Queue<PointLot>> entry : buckets.headMap(bucketOf(nowMillis)).entrySet()) {
+            final Queue<PointLot> lots = entry.getValue();
+
+            PointLot lot;
+            while (due.size() < batchSize && (lot = lots.poll()) != null) {
+                due.add(lot);
+            }
+
+            if (lots.isEmpty()) {
+                buckets.remove(entry.getKey(), lots);
+            }
+            if (due.size() >= batchSize) {
+                break;
+            }
+        }
+
+        return due;
+    }
+
+    // 테스트용 - Lot 목록을 변경하는 PointService 의 동기화 구간 밖에서 호출하면 안된다.
+    List<PointLot> findAllLotsByUserId(final long userId) {
+        final Deque<PointLot> lots = lotsByUser.get(userId);
+        return lots == null ? List.of() : List.copyOf(lots);
+    }
+
+    private long bucketOf(final long millis) {
+        return Math.floorDiv(millis, bucketMillis);
+    }
+}
@@ -0,0 +1,35 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 포인트 소멸 설정
+ * - ttl : 충전 후 포인트가 유효한 기간
+ * - bucketSize : 만료 시각을 묶는 시간 버킷의 크기 (소멸 처리는 최대 이 크기만큼 늦어질 수 있다)
+ * - batchSize : 한 번에 꺼내서 처리하는 Lot 의 개수
+ * - interval : 소멸 스케줄러 실행 간격
+ */
+@ConfigurationProperties("point.expiry")
+public record PointExpiryProperties(
+        @DefaultValue("30d") Duration ttl,
+        @DefaultValue("1h") Duration bucketSize,
+        @DefaultValue("100") int batchSize,
+        @DefaultValue("1m") Duration interval
+) {
+    public PointExpiryProperties {
+        if (ttl.toMillis() <= 0 || bucketSize.toMillis() <= 0 || interval.toMillis() <= 0) {
+            throw new IllegalArgumentException("포인트 소멸 기간, 버킷 크기, 실행 간격은 0 보다 커야 합니다.");
+        }
+        // ttl 이 버킷보다 짧으면 새 Lot 이 이미 꺼내고 있는(지나간) 버킷에 등록되어 유실될 수 있다.
+        if (ttl.compareTo(bucketSize) < 0) {
+            throw new IllegalArgumentException("포인트 소멸 기간은 버킷 크기 이상이어야 합니다.");
+        }
+        // 0 이면 소멸이 조용히 꺼지고, 음수면 매 실행마다 예외가 발생한다.
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("포인트 소멸 배치 크기는 0 보다 커야 합니다.");
+        }
+    }
+}
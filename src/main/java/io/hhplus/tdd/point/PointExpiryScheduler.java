@@ -0,0 +1,38 @@
+package io.hhplus.tdd.point;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료 시각이 지난 시간 버킷을 주기적으로 꺼내 포인트를 소멸 시킨다.
+ * 실행 간격은 PointExpiryProperties.interval 을 따른다.
+ */
+@Component
+public class PointExpiryScheduler implements SchedulingConfigurer {
+
+    private static final Logger log = LoggerFactory.getLogger(PointExpiryScheduler.class);
+
+    private final PointService pointService;
+    private final PointExpiryProperties properties;
+
+    public PointExpiryScheduler(final PointService pointService,
+                                final PointExpiryProperties properties) {
+        this.pointService = pointService;
+        this.properties = properties;
+    }
+
+    @Override
+    public void configureTasks(final ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(this::expire, properties.interval());
+    }
+
+    public void expire() {
+        final int expiredCount = pointService.expireDuePoints(System.currentTimeMillis(), properties.batchSize());
+        if (expiredCount > 0) {
+            log.info("포인트 소멸 처리 완료 - {} 건", expiredCount);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package io.hhplus.tdd.point;
+
+import lombok.Builder;
+
+public record PointImportResult(
+        long userPointCount,
+        long historyCount,
+        long elapsedMillis
+) {
+    @Builder(builderMethodName = "of")
+    public PointImportResult(long userPointCount, long historyCount, long elapsedMillis) {
+        this.userPointCount = userPointCount;
+        this.historyCount = historyCount;
+        this.elapsedMillis = elapsedMillis;
+    }
+}
@@ -0,0 +1,59 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 충전 1건 단위로 관리되는 포인트 묶음(Lot).
+ * 사용 시 먼저 충전된 Lot 부터 차감(FIFO) 되며, 만료 시각이 지나면 남은 포인트가 소멸된다.
+ *
+ * remaining 은 PointService 의 동기화 구간 안에서만 변경된다.
+ */
+public final class PointLot {
+
+    private final long userId;
+    private final long amount;
+    private final long chargeMillis;
+    private final long expireMillis;
+
+    private long remaining;
+
+    PointLot(long userId, long amount, long chargeMillis, long expireMillis) {
+        this.userId = userId;
+        this.amount = amount;
+        this.chargeMillis = chargeMillis;
+        this.expireMillis = expireMillis;
+        this.remaining = amount;
+    }
+
+    public long userId() {
+        return userId;
+    }
+
+    public long amount() {
+        return amount;
+    }
+
+    public long chargeMillis() {
+        return chargeMillis;
+    }
+
+    public long expireMillis() {
+        return expireMillis;
+    }
+
+    public long remaining() {
+        return remaining;
+    }
+
+    // 차감 요청 금액 중 이 Lot 에서 실제로 차감된 금액을 반환..
+    long consume(final long pointToConsume) {
+        final long consumed = Math.min(remaining, pointToConsume);
+        remaining -= consumed;
+        return consumed;
+    }
+
+    // 남은 포인트를 모두 비우고, 비우기 전 잔량을 반환..
+    long drain() {
+        final long drained = remaining;
+        remaining = 0;
+        return drained;
+    }
+}
@@ -0,0 +1,16 @@
+package io.hhplus.tdd.point;
+
+import lombok.Builder;
+
+public record PointRank(
+        long rank,
+        long userId,
+        long point
+) {
+    @Builder(builderMethodName = "of")
+    public PointRank(long rank, long userId, long point) {
+        this.rank = rank;
+        this.userId = userId;
+        this.point = point;
+    }
+}
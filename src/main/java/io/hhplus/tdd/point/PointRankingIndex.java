@@ -0,0 +1,239 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 회원 포인트 잔액 순위 색인.
+ *
+ * UserPointTable 은 ID 단건 조회만 가능해서 순위를 구하려면 모든 ID 를 조회해야 하므로,
+ * PointService 가 insertOrUpdate 할 때마다 이 색인을 함께 갱신한다.
+ *
+ * (잔액 내림차순, 회원 ID 오름차순) 으로 정렬된 skip list 이며, 각 링크가 건너뛰는 노드 수(span)를 함께 들고 있어서
+ * 갱신과 순위 조회 모두 O(log n) 에 처리된다. (JDK 의 ConcurrentSkipListMap 은 순위 조회가 O(n) 이라 직접 구현..)
+ * 갱신은 쓰기 락, 조회는 읽기 락으로 보호한다.
+ */
+@Component
+public class PointRankingIndex {
+
+    private static final int MAX_LEVEL = 32;
+    private static final double LEVEL_UP_PROBABILITY = 0.25;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Node head = new Node(0L, 0L, MAX_LEVEL);
+    private final Map<Long, Node> nodesByUserId = new HashMap<>();
+    private int level = 1;
+    private int size = 0;
+
+    public void update(final long userId, final long point) {
+        lock.writeLock().lock();
+        try {
+            final Node found = nodesByUserId.get(userId);
+            if (found != null) {
+                if (found.point == point) {
+                    return;
+                }
+                delete(found);
+            }
+            nodesByUserId.put(userId, insert(userId, point));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 1 부터 시작하는 순위를 반환한다.
+     * 색인에 없는 회원은 UserPoint.empty 와 같이 잔액 0 인 회원으로 보고 순위를 매긴다.
+     */
+    public PointRank findRankByUserId(final long userId) {
+        lock.readLock().lock();
+        try {
+            final Node found = nodesByUserId.get(userId);
+            final long point = found == null ? 0L : found.point;
+            final long rank = found == null ? countPreceding(userId, point) + 1 : countPreceding(userId, point);
+
+            return PointRank.of()
+                            .rank(rank)
+                            .userId(userId)
+                            .point(point)
+                            .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<PointRank> findTop(final int limit) {
+        lock.readLock().lock();
+        try {
+            final List<PointRank> ranks = new ArrayList<>(Math.min(limit, size));
+
+            Node x = head.forward[0];
+            while (x != null && ranks.size() < limit) {
+                ranks.add(PointRank.of()
+                                   .rank(ranks.size() + 1)
+                                   .userId(x.userId)
+                                   .point(x.point)
+                                   .build());
+                x = x.forward[0];
+            }
+
+            return ranks;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 순위 순서대로 모든 회원 ID 를 복사해서 반환..
+    public long[] findAllUserIds() {
+        lock.readLock().lock();
+        try {
+            final long[] userIds = new long[size];
+
+            int i = 0;
+            for (Node x = head.forward[0]; x != null; x = x.forward[0]) {
+                userIds[i++] = x.userId;
+            }
+
+            return userIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(final long userId) {
+        lock.readLock().lock();
+        try {
+            return nodesByUserId.containsKey(userId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // (userId, point) 보다 앞서거나 같은 노드의 개수..
+    private long countPreceding(final long userId, final long point) {
+        long rank = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.forward[i] != null && !follows(x.forward[i], userId, point)) {
+                rank += x.span[i];
+                x = x.forward[i];
+            }
+        }
+        return rank;
+    }
+
+    private Node insert(final long userId, final long point) {
+        final Node[] update = new Node[MAX_LEVEL];
+        final int[] rank = new int[MAX_LEVEL];
+
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (x.forward[i] != null && precedes(x.forward[i], userId, point)) {
+                rank[i] += x.span[i];
+                x = x.forward[i];
+            }
+            update[i] = x;
+        }
+
+        final int newLevel = randomLevel();
+        if (newLevel > level) {
+            for (int i = level; i < newLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = size;
+            }
+            level = newLevel;
+        }
+
+        final Node node = new Node(userId, point, newLevel);
+        for (int i = 0; i < newLevel; i++) {
+            node.forward[i] = update[i].forward[i];
+            update[i].forward[i] = node;
+
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = (rank[0] - rank[i]) + 1;
+        }
+        // 새 노드보다 높은 레벨의 링크는 새 노드를 하나 더 건너뛰게 된다.
+        for (int i = newLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+
+        size++;
+        return node;
+    }
+
+    private void delete(final Node target) {
+        final Node[] update = new Node[MAX_LEVEL];
+
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.forward[i] != null && precedes(x.forward[i], target.userId, target.point)) {
+                x = x.forward[i];
+            }
+            update[i] = x;
+        }
+
+        for (int i = 0; i < level; i++) {
+            if (update[i].forward[i] == target) {
+                update[i].span[i] += target.span[i] - 1;
+                update[i].forward[i] = target.forward[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && head.forward[level - 1] == null) {
+            level--;
+        }
+
+        size--;
+    }
+
+    // 잔액이 많을수록, 잔액이 같다면 회원 ID 가 작을수록 앞선다.
+    private static boolean precedes(final Node node, final long userId, final long point) {
+        return node.point > point || (node.point == point && node.userId < userId);
+    }
+
+    private static boolean follows(final Node node, final long userId, final long point) {
+        return node.point < point || (node.point == point && node.userId > userId);
+    }
+
+    private static int randomLevel() {
+        int newLevel = 1;
+        while (newLevel < MAX_LEVEL && ThreadLocalRandom.current().nextDouble() < LEVEL_UP_PROBABILITY) {
+            newLevel++;
+        }
+        return newLevel;
+    }
+
+    private static final class Node {
+        private final long userId;
+        private final long point;
+        private final Node[] forward;
+        private final int[] span;
+
+        private Node(long userId, long point, int level) {
+            this.userId = userId;
+            this.point = point;
+            this.forward = new Node[level];
+            this.span = new int[level];
+        }
+    }
+}
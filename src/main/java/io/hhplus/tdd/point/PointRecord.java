@@ -0,0 +1,55 @@
+package io.hhplus.tdd.point;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+
+/**
+ * 포인트 내보내기/가져오기(NDJSON) 의 한 줄
+ * - USER_POINT : userId 의 잔액(point)
+ * - HISTORY : userId 의 포인트 이력 (point 는 충전/사용/소멸된 포인트, id 와 type 은 이력에만 존재)
+ *
+ * 가져오기에서 빠진 값을 0 으로 읽지 않고 걸러낼 수 있도록 숫자 필드는 wrapper 타입을 사용한다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PointRecord(
+        RecordType recordType,
+        Long id,
+        Long userId,
+        Long point,
+        TransactionType type,
+        Long updateMillis
+) {
+    public enum RecordType {
+        USER_POINT, HISTORY
+    }
+
+    @Builder(builderMethodName = "of")
+    public PointRecord(RecordType recordType, Long id, Long userId, Long point, TransactionType type, Long updateMillis) {
+        this.recordType = recordType;
+        this.id = id;
+        this.userId = userId;
+        this.point = point;
+        this.type = type;
+        this.updateMillis = updateMillis;
+    }
+
+    public static PointRecord from(final UserPoint userPoint) {
+        return PointRecord.of()
+                          .recordType(RecordType.USER_POINT)
+                          .userId(userPoint.id())
+                          .point(userPoint.point().getPoint())
+                          .updateMillis(userPoint.updateMillis())
+                          .build();
+    }
+
+    public static PointRecord from(final PointHistory pointHistory) {
+        return PointRecord.of()
+                          .recordType(RecordType.HISTORY)
+                          .id(pointHistory.id())
+                          .userId(pointHistory.userId())
+                          .point(pointHistory.amount())
+                          .type(pointHistory.type())
+                          .updateMillis(pointHistory.updateMillis())
+                          .build();
+    }
+}
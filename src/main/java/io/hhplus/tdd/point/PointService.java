@@ -6,9 +6,11 @@ import io.hhplus.tdd.exception.IllegalPointException;
 import io.hhplus.tdd.exception.InsufficientPointException;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static io.hhplus.tdd.point.TransactionType.CHARGE;
+import static io.hhplus.tdd.point.TransactionType.EXPIRE;
 import static io.hhplus.tdd.point.TransactionType.USE;
 
 // "포인트" 라는 개념과 업무/책임에 있어서 하나의 서비스로 작성 하는 것이
@@ -16,13 +18,21 @@ import static io.hhplus.tdd.point.TransactionType.USE;
 @Service
 public class PointService {
 
+    private static final int MAX_LEADERBOARD_LIMIT = 100;
+
     private final UserPointTable userPointTable;
     private final PointHistoryTable pointHistoryTable;
+    private final PointExpiryIndex pointExpiryIndex;
+    private final PointRankingIndex pointRankingIndex;
 
     public PointService(final UserPointTable userPointTable,
-                        final PointHistoryTable pointHistoryTable) {
+                        final PointHistoryTable pointHistoryTable,
+                        final PointExpiryIndex pointExpiryIndex,
+                        final PointRankingIndex pointRankingIndex) {
         this.userPointTable = userPointTable;
         this.pointHistoryTable = pointHistoryTable;
+        this.pointExpiryIndex = pointExpiryIndex;
+        this.pointRankingIndex = pointRankingIndex;
     }
 
     public UserPoint findUserPointByUserId(final long userId) {
@@ -33,6 +43,65 @@ public class PointService {
         return pointHistoryTable.selectAllByUserId(userId);
     }
 
+    public List<PointRank> findLeaderboard(final int limit) {
+        // 너무 큰 limit 으로 전체 회원을 내려주지 않도록 1 ~ MAX_LEADERBOARD_LIMIT 사이로 보정..
+        return pointRankingIndex.findTop(Math.max(1, Math.min(limit, MAX_LEADERBOARD_LIMIT)));
+    }
+
+    public PointRank findPointRankByUserId(final long userId) {
+        return pointRankingIndex.findRankByUserId(userId);
+    }
+
+    // UserPointTable 은 전체 조회 API 가 없으므로, 한 번이라도 포인트가 저장된 회원을 순위 색인에서 가져온다.
+    public long[] findAllUserIds() {
+        return pointRankingIndex.findAllUserIds();
+    }
+
+    /**
+     * 가져오기(import) 한 잔액으로 교체한다.
+     * 기존 Lot 은 더 이상 잔액과 맞지 않으므로 비우고, 가져온 잔액 전체를 updateMillis 시점에 충전된 하나의 Lot 으로 등록한다.
+     * (이후 충전분보다 먼저 사용/소멸 되도록..)
+     */
+    public synchronized UserPoint importUserPoint(final long userId, final long point, final long updateMillis) {
+        final UserPoint userPoint = userPointTable.insertOrUpdate(userId, Point.of(point));
+        pointRankingIndex.update(userId, point);
+
+        pointExpiryIndex.clear(userId);
+        if (point > 0) {
+            pointExpiryIndex.register(userId, point, updateMillis, System.currentTimeMillis());
+        }
+
+        return userPoint;
+    }
+
+    // 잔액과 이력을 같은 락 안에서 읽어서, 충전/사용/소멸 중인 Table 을 동시에 읽지 않도록..
+    synchronized List<PointRecord> findAllPointRecordsByUserId(final long userId) {
+        final List<PointHistory> pointHistories = pointHistoryTable.selectAllByUserId(userId);
+        final List<PointRecord> pointRecords = new ArrayList<>(pointHistories.size() + 1);
+
+        pointRecords.add(PointRecord.from(userPointTable.selectById(userId)));
+        for (PointHistory pointHistory : pointHistories) {
+            pointRecords.add(PointRecord.from(pointHistory));
+        }
+
+        return pointRecords;
+    }
+
+    /**
+     * 이력 ID 는 PointHistoryTable 이 새로 발급하므로, 회원별 이력 순서는 호출 순서를 따른다.
+     * 내보내기는 순위 색인의 회원 목록을 기준으로 하므로, 잔액 없이 이력만 가져온 회원도 현재 잔액으로 색인에 등록한다.
+     */
+    public synchronized PointHistory importPointHistory(final long userId,
+                                                        final long amount,
+                                                        final TransactionType type,
+                                                        final long updateMillis) {
+        if (!pointRankingIndex.contains(userId)) {
+            pointRankingIndex.update(userId, userPointTable.selectById(userId).point().getPoint());
+        }
+
+        return pointHistoryTable.insert(userId, amount, type, updateMillis);
+    }
+
     public synchronized UserPoint chargePoint(final long userId, final long pointToCharge) {
 
         // 충전 대상을 조회
@@ -41,8 +110,14 @@ public class PointService {
         final Point chargedPoint = foundUserPoint.point().charge(pointToCharge);
         // 데이터 업데이트
         final UserPoint newUserPoint = userPointTable.insertOrUpdate(userId, chargedPoint);
-        // 포인트 충전 이력 남기기
-        pointHistoryTable.insert(userId, pointToCharge, CHARGE, System.currentTimeMillis());
+        pointRankingIndex.update(userId, chargedPoint.getPoint());
+        // 포인트 충전 이력 남기기 (Lot 의 충전 시각과 이력 시각이 같도록 한 번만 읽는다)
+        final long chargeMillis = System.currentTimeMillis();
+        pointHistoryTable.insert(userId, pointToCharge, CHARGE, chargeMillis);
+        // 충전 시점부터 유효기간이 지나면 소멸 되도록 Lot 으로 등록 (0 포인트 충전은 소멸될 것이 없으므로 제외)
+        if (pointToCharge > 0) {
+            pointExpiryIndex.register(userId, pointToCharge, chargeMillis);
+        }
 
         return newUserPoint;
     }
@@ -51,10 +126,54 @@ public class PointService {
         final UserPoint foundUserPoint = userPointTable.selectById(userId);
         final Point leftPoint = foundUserPoint.point().use(pointToUse);
         final UserPoint userPoint = userPointTable.insertOrUpdate(userId, leftPoint);
+        pointRankingIndex.update(userId, leftPoint.getPoint());
 
         pointHistoryTable.insert(userPoint.id(), pointToUse, USE, System.currentTimeMillis());
+        // 먼저 충전된 Lot 부터 차감..
+        pointExpiryIndex.consume(userId, pointToUse);
 
         return userPoint;
     }
 
+    /**
+     * 만료 시각이 지난 Lot 들을 batchSize 단위로 꺼내서 소멸 시키고, 소멸 이력이 남은 건수를 반환한다.
+     * 락은 Lot 1건 단위로 잡아서, 소멸 처리 중에도 충전/사용 요청이 오래 기다리지 않도록..
+     */
+    public int expireDuePoints(final long nowMillis, final int batchSize) {
+        int expiredCount = 0;
+
+        List<PointLot> dueLots;
+        while (!(dueLots = pointExpiryIndex.pollDue(nowMillis, batchSize)).isEmpty()) {
+            for (PointLot dueLot : dueLots) {
+                if (expireLot(dueLot, nowMillis)) {
+                    expiredCount++;
+                }
+            }
+        }
+
+        return expiredCount;
+    }
+
+    synchronized boolean expireLot(final PointLot lot, final long nowMillis) {
+        final long remaining = pointExpiryIndex.expire(lot);
+        if (remaining == 0) {
+            // 이미 모두 사용된 Lot
+            return false;
+        }
+
+        final UserPoint foundUserPoint = userPointTable.selectById(lot.userId());
+        // Lot 합계는 잔액을 넘을 수 없지만, 혹시 모를 불일치에 대비해 잔액 이상은 소멸 시키지 않는다.
+        final long pointToExpire = Math.min(remaining, foundUserPoint.point().getPoint());
+        if (pointToExpire == 0) {
+            return false;
+        }
+
+        final Point leftPoint = foundUserPoint.point().use(pointToExpire);
+        userPointTable.insertOrUpdate(lot.userId(), leftPoint);
+        pointRankingIndex.update(lot.userId(), leftPoint.getPoint());
+        pointHistoryTable.insert(lot.userId(), pointToExpire, EXPIRE, nowMillis);
+
+        return true;
+    }
+
 }
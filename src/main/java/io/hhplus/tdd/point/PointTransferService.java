@@ -0,0 +1,203 @@
+package io.hhplus.tdd.point;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.hhplus.tdd.exception.IllegalImportRecordException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 잔액과 이력을 NDJSON(한 줄에 PointRecord 하나) 으로 내보내고 가져온다.
+ *
+ * 내보내기는 회원 단위로 바로 스트림에 써서, 전체 데이터를 메모리에 올리지 않는다.
+ * 가져오기는 요청 스레드가 파싱한 배치를 적용 스레드 하나가 순서대로 저장한다.
+ * Table 들이 스레드 안전하지 않아 저장 자체는 병렬화 할 수 없으므로, 파싱과 저장을 겹쳐서 처리..
+ */
+@Service
+public class PointTransferService {
+
+    private static final Logger log = LoggerFactory.getLogger(PointTransferService.class);
+
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+    private static final int EXPORT_FLUSH_USER_COUNT = 100;
+    private static final int IMPORT_BATCH_SIZE = 1_000;
+    // 파싱이 저장보다 너무 앞서가서 메모리를 차지하지 않도록, 대기 중인 배치 수를 제한..
+    private static final int IMPORT_MAX_PENDING_BATCHES = 4;
+    private static final long IMPORT_PROGRESS_LOG_INTERVAL = 10_000L;
+
+    private final PointService pointService;
+    private final ObjectWriter recordWriter;
+    private final ObjectReader recordReader;
+
+    public PointTransferService(final PointService pointService,
+                                final ObjectMapper objectMapper) {
+        this.pointService = pointService;
+        this.recordWriter = objectMapper.writerFor(PointRecord.class);
+        this.recordReader = objectMapper.readerFor(PointRecord.class);
+    }
+
+    public void exportTo(final OutputStream outputStream) throws IOException {
+        final BufferedOutputStream out = new BufferedOutputStream(outputStream, EXPORT_BUFFER_SIZE);
+        final long[] userIds = pointService.findAllUserIds();
+
+        for (int i = 0; i < userIds.length; i++) {
+            final long userId = userIds[i];
+
+            // 이력을 회원별로 조회할 방법이 전체 이력을 훑는 것 뿐이라 (PointHistoryTable API) 전체 비용은 회원 수 x 이력 수..
+            for (PointRecord record : pointService.findAllPointRecordsByUserId(userId)) {
+                writeLine(out, record);
+            }
+
+            // 일정 회원 수 마다 flush 해서 클라이언트가 chunk 단위로 받을 수 있도록..
+            if ((i + 1) % EXPORT_FLUSH_USER_COUNT == 0) {
+                out.flush();
+            }
+        }
+
+        out.flush();
+    }
+
+    /**
+     * 형식이 잘못된 줄이나 유효하지 않은 포인트를 만나면 중단하며, 그 전까지 저장된 데이터는 되돌리지 않는다.
+     */
+    public PointImportResult importFrom(final InputStream inputStream) throws IOException {
+        final long startMillis = System.currentTimeMillis();
+        final ImportProgress progress = new ImportProgress();
+        final Semaphore pendingBatches = new Semaphore(IMPORT_MAX_PENDING_BATCHES);
+        // 적용 스레드가 하나이므로 배치들은 들어온 순서대로 저장되고, 회원별 이력 순서도 유지된다.
+        final ExecutorService applier = Executors.newSingleThreadExecutor();
+
+        CompletableFuture<Void> applied = CompletableFuture.completedFuture(null);
+        try (MappingIterator<PointRecord> records = recordReader.readValues(inputStream)) {
+            List<PointRecord> batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+
+            // 앞선 배치 저장이 실패했다면 더 읽지 않는다.
+            while (!progress.failed && nextRecord(records, batch)) {
+                if (batch.size() == IMPORT_BATCH_SIZE) {
+                    applied = submit(applied, batch, progress, pendingBatches, applier);
+                    batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+                }
+            }
+            if (!batch.isEmpty() && !progress.failed) {
+                applied = submit(applied, batch, progress, pendingBatches, applier);
+            }
+        } finally {
+            // 파싱이 실패했더라도 이미 넘긴 배치의 저장이 끝난 뒤에 응답하도록 기다린다.
+            applied.handle((ignored, e) -> null).join();
+            applier.shutdown();
+        }
+
+        try {
+            applied.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+
+        final PointImportResult result = PointImportResult.of()
+                                                          .userPointCount(progress.userPointCount.get())
+                                                          .historyCount(progress.historyCount.get())
+                                                          .elapsedMillis(System.currentTimeMillis() - startMillis)
+                                                          .build();
+        log.info("포인트 가져오기 완료 - 잔액 {} 건, 이력 {} 건, {} ms",
+                result.userPointCount(), result.historyCount(), result.elapsedMillis());
+
+        return result;
+    }
+
+    private boolean nextRecord(final MappingIterator<PointRecord> records,
+                               final List<PointRecord> batch) throws IOException {
+        try {
+            if (!records.hasNextValue()) {
+                return false;
+            }
+
+            final PointRecord record = records.nextValue();
+            if (record.recordType() == null
+                    || record.userId() == null
+                    || record.point() == null
+                    || record.updateMillis() == null
+                    || (record.recordType() == PointRecord.RecordType.HISTORY && record.type() == null)) {
+                throw new IllegalImportRecordException(
+                        "가져올 데이터의 형식이 올바르지 않습니다. (line " + records.getCurrentLocation().getLineNr() + ")");
+            }
+            // 잔액/이력 금액 모두 저장 전에 걸러서, 어느 줄이 잘못되었는지 알 수 있도록..
+            if (record.point() < 0) {
+                throw new IllegalImportRecordException(
+                        "가져올 포인트는 0 이상이어야 합니다. (line " + records.getCurrentLocation().getLineNr() + ")");
+            }
+
+            batch.add(record);
+            return true;
+        } catch (JsonProcessingException e) {
+            throw new IllegalImportRecordException(
+                    "가져올 데이터의 형식이 올바르지 않습니다. (line " + records.getCurrentLocation().getLineNr() + ")");
+        }
+    }
+
+    private CompletableFuture<Void> submit(final CompletableFuture<Void> applied,
+                                           final List<PointRecord> batch,
+                                           final ImportProgress progress,
+                                           final Semaphore pendingBatches,
+                                           final ExecutorService applier) {
+        pendingBatches.acquireUninterruptibly();
+
+        return applied.thenRunAsync(() -> apply(batch, progress), applier)
+                      .whenComplete((ignored, e) -> {
+                          if (e != null) {
+                              progress.failed = true;
+                          }
+                          pendingBatches.release();
+                      });
+    }
+
+    private void apply(final List<PointRecord> batch, final ImportProgress progress) {
+        for (PointRecord record : batch) {
+            switch (record.recordType()) {
+                case USER_POINT -> {
+                    pointService.importUserPoint(record.userId(), record.point(), record.updateMillis());
+                    progress.userPointCount.incrementAndGet();
+                }
+                case HISTORY -> {
+                    pointService.importPointHistory(record.userId(), record.point(), record.type(), record.updateMillis());
+                    progress.historyCount.incrementAndGet();
+                }
+            }
+        }
+
+        final long total = progress.userPointCount.get() + progress.historyCount.get();
+        if (total / IMPORT_PROGRESS_LOG_INTERVAL != (total - batch.size()) / IMPORT_PROGRESS_LOG_INTERVAL) {
+            log.info("포인트 가져오기 진행 중 - {} 건", total);
+        }
+    }
+
+    private void writeLine(final OutputStream out, final PointRecord record) throws IOException {
+        out.write(recordWriter.writeValueAsBytes(record));
+        out.write('\n');
+    }
+
+    private static final class ImportProgress {
+        private final AtomicLong userPointCount = new AtomicLong();
+        private final AtomicLong historyCount = new AtomicLong();
+        private volatile boolean failed;
+    }
+}
@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 기동 직후 예열(warm-up) 설정
+ * - enabled : 예열 여부 (켜면 예열이 끝난 뒤에 readiness 가 ACCEPTING_TRAFFIC 이 된다)
+ * - iterations : 지연(throttle) 이 없는 도메인/색인 코드를 반복 호출하는 횟수 (JIT 컴파일 유도)
+ * - requests : 엔드포인트별 HTTP 예열 요청 횟수
+ * - userId : HTTP 예열 요청에 사용하는 회원 ID (충전/사용 요청은 항상 실패하므로 데이터는 변경되지 않는다)
+ */
+@ConfigurationProperties("point.warmup")
+public record PointWarmUpProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("20000") int iterations,
+        @DefaultValue("3") int requests,
+        @DefaultValue("-1") long userId
+) {
+}
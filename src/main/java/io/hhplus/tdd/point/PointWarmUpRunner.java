@@ -0,0 +1,123 @@
+package io.hhplus.tdd.point;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 기동 직후 포인트 조회/충전/사용 경로를 미리 실행해서 JIT 컴파일과 지연 초기화를 끝내둔다.
+ *
+ * ApplicationRunner 는 readiness 가 ACCEPTING_TRAFFIC 으로 바뀌기 전에 실행되므로,
+ * 예열이 끝나기 전에는 readiness probe 가 트래픽을 받지 않는다.
+ * 실제 데이터를 변경하지 않도록, 프로세스 안에서는 지연(throttle) 이 없는 코드만 반복하고
+ * HTTP 로는 조회와 실패(400) 하는 충전/사용 요청만 보낸다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.warmup", name = "enabled", havingValue = "true")
+public class PointWarmUpRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(PointWarmUpRunner.class);
+
+    private static final int WARM_UP_USER_COUNT = 100;
+    private static final Duration HTTP_TIMEOUT = Duration.ofSeconds(10);
+
+    private final PointWarmUpProperties properties;
+    private final PointExpiryProperties expiryProperties;
+    private final ObjectMapper objectMapper;
+    private final ApplicationContext applicationContext;
+
+    public PointWarmUpRunner(final PointWarmUpProperties properties,
+                             final PointExpiryProperties expiryProperties,
+                             final ObjectMapper objectMapper,
+                             final ApplicationContext applicationContext) {
+        this.properties = properties;
+        this.expiryProperties = expiryProperties;
+        this.objectMapper = objectMapper;
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void run(final ApplicationArguments args) throws Exception {
+        final long startMillis = System.currentTimeMillis();
+
+        warmUpInProcess();
+        if (applicationContext instanceof WebServerApplicationContext webServerApplicationContext) {
+            warmUpHttp(webServerApplicationContext.getWebServer().getPort());
+        }
+
+        log.info("포인트 예열 완료 - {} ms", System.currentTimeMillis() - startMillis);
+    }
+
+    private void warmUpInProcess() throws IOException {
+        final PointExpiryIndex expiryIndex = new PointExpiryIndex(expiryProperties);
+        final PointRankingIndex rankingIndex = new PointRankingIndex();
+
+        // 지연(throttle) 이 없는 도메인/색인/직렬화 코드는 JIT 컴파일 될 만큼 반복..
+        Point point = Point.ZERO;
+        for (int i = 0; i < properties.iterations(); i++) {
+            final long userId = i % WARM_UP_USER_COUNT;
+
+            point = point.charge(100L).use(50L);
+            expiryIndex.register(userId, 100L, i);
+            expiryIndex.consume(userId, 50L);
+            rankingIndex.update(userId, point.getPoint());
+
+            final PointRank pointRank = rankingIndex.findRankByUserId(userId);
+            objectMapper.writeValueAsBytes(pointRank);
+            objectMapper.writeValueAsBytes(new UserPoint(userId, point, i));
+            objectMapper.writeValueAsBytes(new PointHistory(i, userId, 100L, TransactionType.CHARGE, i));
+        }
+        for (PointLot lot : expiryIndex.pollDue(Long.MAX_VALUE, properties.iterations())) {
+            expiryIndex.expire(lot);
+        }
+    }
+
+    private void warmUpHttp(final int port) throws IOException, InterruptedException {
+        final String baseUrl = "http://localhost:" + port + "/point";
+        final long userId = properties.userId();
+        final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(HTTP_TIMEOUT).build();
+
+        final List<HttpRequest> requests = List.of(
+                get(baseUrl + "/" + userId),
+                get(baseUrl + "/" + userId + "/histories"),
+                get(baseUrl + "/" + userId + "/rank"),
+                get(baseUrl + "/leaderboard?limit=10"),
+                // 음수 충전, 잔고 부족 사용은 모두 400 으로 끝나서 데이터가 변경되지 않는다.
+                // (어떤 회원 ID 가 설정되더라도 잔고가 부족하도록 사용 금액은 Long.MAX_VALUE)
+                patch(baseUrl + "/" + userId + "/charge", -1L),
+                patch(baseUrl + "/" + userId + "/use", Long.MAX_VALUE)
+        );
+
+        for (int i = 0; i < properties.requests(); i++) {
+            for (HttpRequest request : requests) {
+                httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            }
+        }
+    }
+
+    private static HttpRequest get(final String url) {
+        return HttpRequest.newBuilder(URI.create(url)).timeout(HTTP_TIMEOUT).GET().build();
+    }
+
+    private static HttpRequest patch(final String url, final long amount) {
+        return HttpRequest.newBuilder(URI.create(url))
+                          .timeout(HTTP_TIMEOUT)
+                          .header("Content-Type", "application/json")
+                          .method("PATCH", HttpRequest.BodyPublishers.ofString(String.valueOf(amount)))
+                          .build();
+    }
+}
@@ -5,7 +5,8 @@ package io.hhplus.tdd.point;
  * 포인트 트랜잭션 종류
  * - CHARGE : 충전
  * - USE : 사용
+ * - EXPIRE : 소멸 (충전 후 유효기간이 지난 포인트)
  */
 public enum TransactionType {
-    CHARGE, USE
+    CHARGE, USE, EXPIRE
 }
\ No newline at end of file
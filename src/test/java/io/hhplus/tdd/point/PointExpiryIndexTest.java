@@ -0,0 +1,107 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PointExpiryIndexTest {
+
+    private static final long TTL_MILLIS = Duration.ofDays(30).toMillis();
+    private static final long BUCKET_MILLIS = Duration.ofHours(1).toMillis();
+
+    private PointExpiryIndex pointExpiryIndex;
+
+    @BeforeEach
+    void setUp() {
+        pointExpiryIndex = new PointExpiryIndex(
+                new PointExpiryProperties(Duration.ofMillis(TTL_MILLIS), Duration.ofMillis(BUCKET_MILLIS), 100, Duration.ofMinutes(1))
+        );
+    }
+
+    @Test
+    @DisplayName("포인트 사용 시, 먼저 충전된 Lot 부터 차감 되어야 한다.")
+    public void givenLots_whenCallingConsume_thenConsumesOldestLotFirst() {
+        final long userId = 1L;
+        PointLot first = pointExpiryIndex.register(userId, 100L, 0L);
+        PointLot second = pointExpiryIndex.register(userId, 300L, 10L);
+
+        pointExpiryIndex.consume(userId, 150L);
+
+        // 첫 번째 Lot 은 모두 사용되어 목록에서 빠지고, 두 번째 Lot 에서 50 이 차감 되어야 한다.
+        assertThat(first.remaining()).isZero();
+        assertThat(second.remaining()).isEqualTo(250L);
+        assertThat(pointExpiryIndex.findAllLotsByUserId(userId)).containsExactly(second);
+    }
+
+    @Test
+    @DisplayName("Lot 합계보다 많은 포인트를 사용하는 경우(Lot 으로 추적되지 않는 잔액), 모든 Lot 이 비워져야 한다.")
+    public void givenPointToConsumeGreaterThanLots_whenCallingConsume_thenDrainsAllLots() {
+        final long userId = 1L;
+        pointExpiryIndex.register(userId, 100L, 0L);
+
+        pointExpiryIndex.consume(userId, 500L);
+
+        assertThat(pointExpiryIndex.findAllLotsByUserId(userId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("만료 시각이 속한 버킷이 끝나지 않았다면, 해당 Lot 은 꺼내지지 않아야 한다.")
+    public void givenNotYetDueLot_whenCallingPollDue_thenReturnsEmpty() {
+        pointExpiryIndex.register(1L, 100L, 0L);
+
+        assertThat(pointExpiryIndex.pollDue(TTL_MILLIS - 1, 100)).isEmpty();
+        // 만료 시각이 지났더라도 버킷이 진행 중이면 아직 대상이 아니다.
+        assertThat(pointExpiryIndex.pollDue(TTL_MILLIS, 100)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("만료된 버킷의 Lot 들은 batchSize 단위로 나뉘어 꺼내져야 한다.")
+    public void givenDueLots_whenCallingPollDue_thenReturnsLotsInBatches() {
+        for (long userId = 1; userId <= 5; userId++) {
+            pointExpiryIndex.register(userId, 100L, userId);
+        }
+        // 다음 버킷 시간대에 만료되는 Lot
+        pointExpiryIndex.register(6L, 100L, BUCKET_MILLIS);
+
+        final long nowMillis = TTL_MILLIS + BUCKET_MILLIS;
+
+        List<PointLot> firstBatch = pointExpiryIndex.pollDue(nowMillis, 3);
+        List<PointLot> secondBatch = pointExpiryIndex.pollDue(nowMillis, 3);
+        List<PointLot> thirdBatch = pointExpiryIndex.pollDue(nowMillis, 3);
+
+        assertThat(firstBatch).hasSize(3);
+        assertThat(secondBatch).hasSize(2);
+        assertThat(thirdBatch).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Lot 만료 시, 남은 포인트를 반환하고 회원의 Lot 목록에서 제거 되어야 한다.")
+    public void givenPartiallyConsumedLot_whenCallingExpire_thenReturnsRemaining() {
+        final long userId = 1L;
+        PointLot lot = pointExpiryIndex.register(userId, 500L, 0L);
+        pointExpiryIndex.consume(userId, 300L);
+
+        long expired = pointExpiryIndex.expire(lot);
+
+        assertThat(expired).isEqualTo(200L);
+        assertThat(lot.remaining()).isZero();
+        assertThat(pointExpiryIndex.findAllLotsByUserId(userId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("배치 크기가 0 이하이거나 소멸 기간이 버킷 크기보다 짧은 설정은 IllegalArgumentException 이 발생 하여야 한다.")
+    public void givenInvalidProperties_whenCreatingPointExpiryProperties_thenThrowsIllegalArgumentException() {
+        assertThatThrownBy(() -> new PointExpiryProperties(Duration.ofDays(30), Duration.ofHours(1), 0, Duration.ofMinutes(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PointExpiryProperties(Duration.ofDays(30), Duration.ofHours(1), -1, Duration.ofMinutes(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PointExpiryProperties(Duration.ofMinutes(30), Duration.ofHours(1), 100, Duration.ofMinutes(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
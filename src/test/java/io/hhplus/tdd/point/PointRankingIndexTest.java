@@ -0,0 +1,94 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PointRankingIndexTest {
+
+    private PointRankingIndex pointRankingIndex;
+
+    @BeforeEach
+    void setUp() {
+        pointRankingIndex = new PointRankingIndex();
+    }
+
+    @Test
+    @DisplayName("잔액 내림차순으로 정렬 되어야 하고, 잔액이 같다면 회원 ID 오름차순으로 정렬 되어야 한다.")
+    public void givenUserPoints_whenCallingFindTop_thenReturnsOrderedByPointDescAndUserIdAsc() {
+        pointRankingIndex.update(1L, 100L);
+        pointRankingIndex.update(2L, 300L);
+        pointRankingIndex.update(3L, 100L);
+        pointRankingIndex.update(4L, 200L);
+
+        List<PointRank> top = pointRankingIndex.findTop(3);
+
+        assertThat(top).containsExactly(
+                new PointRank(1L, 2L, 300L),
+                new PointRank(2L, 4L, 200L),
+                new PointRank(3L, 1L, 100L)
+        );
+    }
+
+    @Test
+    @DisplayName("잔액이 갱신되면, 해당 회원의 순위도 함께 변경 되어야 한다.")
+    public void givenUpdatedPoint_whenCallingFindRankByUserId_thenReturnsMovedRank() {
+        pointRankingIndex.update(1L, 100L);
+        pointRankingIndex.update(2L, 200L);
+        pointRankingIndex.update(3L, 300L);
+
+        pointRankingIndex.update(1L, 500L);
+
+        assertThat(pointRankingIndex.findRankByUserId(1L)).isEqualTo(new PointRank(1L, 1L, 500L));
+        assertThat(pointRankingIndex.findRankByUserId(2L)).isEqualTo(new PointRank(3L, 2L, 200L));
+        assertThat(pointRankingIndex.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("색인에 없는 회원은 잔액 0 인 회원으로 순위가 매겨져야 한다.")
+    public void givenNonExistentUserId_whenCallingFindRankByUserId_thenReturnsRankOfEmptyPoint() {
+        pointRankingIndex.update(1L, 100L);
+        pointRankingIndex.update(2L, 0L);
+        pointRankingIndex.update(5L, 0L);
+
+        // 잔액 0 인 회원 중 ID 3 은 ID 2 다음, ID 5 앞에 위치한다.
+        assertThat(pointRankingIndex.findRankByUserId(3L)).isEqualTo(new PointRank(3L, 3L, 0L));
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 잔액을 갱신해도, 순위는 최종 잔액 기준으로 일관 되어야 한다.")
+    public void givenConcurrentUpdates_whenCallingFindTop_thenRanksAreConsistent() throws InterruptedException {
+        final int userCount = 200;
+        final ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+        for (int i = 0; i < 20_000; i++) {
+            executorService.submit(() -> {
+                final ThreadLocalRandom random = ThreadLocalRandom.current();
+                pointRankingIndex.update(random.nextLong(userCount), random.nextLong(1_000L));
+                pointRankingIndex.findRankByUserId(random.nextLong(userCount));
+            });
+        }
+        executorService.shutdown();
+        assertThat(executorService.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        List<PointRank> top = pointRankingIndex.findTop(userCount);
+
+        assertThat(top).hasSize(pointRankingIndex.size());
+        for (int i = 0; i < top.size(); i++) {
+            PointRank pointRank = top.get(i);
+            // 목록 상의 순서와 단건 순위 조회 결과가 일치 해야 한다.
+            assertThat(pointRankingIndex.findRankByUserId(pointRank.userId())).isEqualTo(pointRank);
+            if (i > 0) {
+                assertThat(pointRank.point()).isLessThanOrEqualTo(top.get(i - 1).point());
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.UserPointTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PointServiceConcurrencyTest {
+
+    private UserPointTable userPointTable;
+    private PointService pointService;
+
+    @BeforeEach
+    void setUp() {
+        userPointTable = new UserPointTable();
+        pointService = Stubs.newPointService(userPointTable);
+    }
+
+    @Test
+    @DisplayName("여러 회원의 충전/사용이 동시에 일어나도, 순위표는 실제 잔액과 일치 해야 한다.")
+    public void givenConcurrentChargeAndUse_whenCallingFindLeaderboard_thenMatchesUserPoints() throws InterruptedException {
+        final int userCount = 4;
+        final int requestCountPerUser = 4;
+        final ExecutorService executorService = Executors.newFixedThreadPool(userCount * 2);
+        final CountDownLatch latch = new CountDownLatch(userCount * requestCountPerUser);
+
+        for (long userId = 1; userId <= userCount; userId++) {
+            final long chargeAmount = userId * 1_000L;
+            for (int i = 0; i < requestCountPerUser; i++) {
+                final boolean charge = i % 2 == 0;
+                final long id = userId;
+                executorService.submit(() -> {
+                    try {
+                        if (charge) {
+                            pointService.chargePoint(id, chargeAmount);
+                        } else {
+                            pointService.usePoint(id, 100L);
+                        }
+                    } catch (RuntimeException ignored) {
+                        // 충전보다 사용이 먼저 실행되어 잔고가 부족한 경우..
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+        }
+        assertThat(latch.await(60, TimeUnit.SECONDS)).isTrue();
+        executorService.shutdown();
+
+        List<PointRank> leaderboard = pointService.findLeaderboard(userCount);
+
+        assertThat(leaderboard).hasSize(userCount);
+        for (PointRank pointRank : leaderboard) {
+            assertThat(pointRank.point()).isEqualTo(userPointTable.selectById(pointRank.userId()).point().getPoint());
+            assertThat(pointService.findPointRankByUserId(pointRank.userId())).isEqualTo(pointRank);
+        }
+        // 충전 금액이 회원 ID 에 비례하므로, ID 가 큰 회원이 1 위가 된다.
+        assertThat(leaderboard.get(0).userId()).isEqualTo(userCount);
+    }
+}
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -19,15 +20,18 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class PointServiceTest {
 
-    // PointService 가 아래 두 객체에 대한 의존성을 가질 것이므로 @InjectMocks 사용
+    // PointService 가 아래 객체들에 대한 의존성을 가질 것이므로 @InjectMocks 사용
     @InjectMocks
     private PointService pointService;
 
@@ -35,6 +39,10 @@ class PointServiceTest {
     private UserPointTable userPointTable;
     @Mock
     private PointHistoryTable pointHistoryTable;
+    @Mock
+    private PointExpiryIndex pointExpiryIndex;
+    @Mock
+    private PointRankingIndex pointRankingIndex;
 
 
     @Nested
@@ -152,7 +160,32 @@ class PointServiceTest {
 
             // 행위 검증
             verify(userPointTable).insertOrUpdate(userId, chargedPoint);
-            verify(pointHistoryTable).insert(eq(userId), eq(pointToCharge), eq(TransactionType.CHARGE), anyLong());
+            ArgumentCaptor<Long> chargeMillis = ArgumentCaptor.forClass(Long.class);
+            verify(pointHistoryTable).insert(eq(userId), eq(pointToCharge), eq(TransactionType.CHARGE), chargeMillis.capture());
+            // 충전된 포인트는 충전 이력과 같은 시각으로 소멸 대상 Lot 에 등록 되어야 한다.
+            verify(pointExpiryIndex).register(userId, pointToCharge, chargeMillis.getValue());
+            // 충전 후 잔액으로 순위 색인이 갱신 되어야 한다.
+            verify(pointRankingIndex).update(userId, chargedPoint.getPoint());
+        }
+
+        @Test
+        @DisplayName("0 포인트를 충전하는 경우, 소멸 대상 Lot 이 등록 되지 않아야 한다.")
+        public void givenZeroPointToCharge_whenCallingChargePoint_thenDoesNotRegisterLot() {
+            // given
+            long userId = 1L;
+            UserPoint currentUserPoint = UserPoint.of()
+                                                  .id(userId)
+                                                  .point(Point.of(500L))
+                                                  .updateMillis(System.currentTimeMillis())
+                                                  .build();
+
+            when(userPointTable.selectById(userId)).thenReturn(currentUserPoint);
+
+            // when
+            pointService.chargePoint(userId, 0L);
+
+            // then
+            verify(pointExpiryIndex, never()).register(anyLong(), anyLong(), anyLong());
         }
 
         @ParameterizedTest
@@ -215,6 +248,9 @@ class PointServiceTest {
             // 행위 검증
             verify(userPointTable).insertOrUpdate(userId, leftPoint);
             verify(pointHistoryTable).insert(eq(userId), eq(pointToUse), eq(TransactionType.USE), anyLong());
+            // 사용한 포인트 만큼 Lot 에서 차감 되어야 한다.
+            verify(pointExpiryIndex).consume(userId, pointToUse);
+            verify(pointRankingIndex).update(userId, leftPoint.getPoint());
         }
 
         @Test
@@ -249,4 +285,47 @@ class PointServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("회원 포인트 소멸 테스트")
+    public class ExpirePointTests {
+        @Test
+        @DisplayName("만료된 Lot 에 남은 포인트가 있는 경우, 잔액에서 차감하고 EXPIRE 이력을 남겨야 한다.")
+        public void givenDueLotWithRemaining_whenCallingExpireDuePoints_thenExpiresRemainingPoint() {
+            // given -> 500 포인트 Lot 중 200 포인트가 남은 상태로 만료 됨
+            final long userId = 1L;
+            final long nowMillis = System.currentTimeMillis();
+            final PointLot dueLot = new PointLot(userId, 500L, 0L, 1L);
+
+            when(pointExpiryIndex.pollDue(nowMillis, 100)).thenReturn(List.of(dueLot), List.of());
+            when(pointExpiryIndex.expire(dueLot)).thenReturn(200L);
+            when(userPointTable.selectById(userId)).thenReturn(new UserPoint(userId, Point.of(700L), nowMillis));
+
+            // when
+            int expiredCount = pointService.expireDuePoints(nowMillis, 100);
+
+            // then
+            assertThat(expiredCount).isEqualTo(1);
+            verify(userPointTable).insertOrUpdate(eq(userId), argThat(point -> point.getPoint() == 500L));
+            verify(pointHistoryTable).insert(userId, 200L, TransactionType.EXPIRE, nowMillis);
+            verify(pointRankingIndex).update(userId, 500L);
+        }
+
+        @Test
+        @DisplayName("만료된 Lot 이 이미 모두 사용된 경우, 포인트와 이력은 변경되지 않아야 한다.")
+        public void givenFullyConsumedLot_whenCallingExpireDuePoints_thenDoesNothing() {
+            final long userId = 1L;
+            final long nowMillis = System.currentTimeMillis();
+            final PointLot dueLot = new PointLot(userId, 500L, 0L, 1L);
+
+            when(pointExpiryIndex.pollDue(nowMillis, 100)).thenReturn(List.of(dueLot), List.of());
+            when(pointExpiryIndex.expire(dueLot)).thenReturn(0L);
+
+            int expiredCount = pointService.expireDuePoints(nowMillis, 100);
+
+            assertThat(expiredCount).isZero();
+            verify(userPointTable, never()).insertOrUpdate(anyLong(), any());
+            verify(pointHistoryTable, never()).insert(anyLong(), anyLong(), any(), anyLong());
+        }
+    }
+
 }
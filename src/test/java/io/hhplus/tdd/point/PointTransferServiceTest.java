@@ -0,0 +1,145 @@
+package io.hhplus.tdd.point;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.exception.IllegalImportRecordException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PointTransferServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("내보낸 NDJSON 을 다른 저장소로 가져오면, 잔액과 회원별 이력 순서가 그대로 유지 되어야 한다.")
+    public void givenExportedPoints_whenCallingImportFrom_thenRestoresUserPointsAndHistories() throws IOException {
+        // given -> 원본 저장소에서 두 회원이 충전/사용
+        PointService source = Stubs.newPointService();
+        source.chargePoint(1L, 1_000L);
+        source.usePoint(1L, 300L);
+        source.chargePoint(2L, 500L);
+
+        ByteArrayOutputStream exported = new ByteArrayOutputStream();
+        new PointTransferService(source, objectMapper).exportTo(exported);
+
+        // 잔액 2 줄 + 이력 3 줄
+        assertThat(exported.toString(StandardCharsets.UTF_8).lines()).hasSize(5);
+
+        // when
+        PointService target = Stubs.newPointService();
+        PointImportResult result = new PointTransferService(target, objectMapper)
+                .importFrom(new ByteArrayInputStream(exported.toByteArray()));
+
+        // then
+        assertThat(result.userPointCount()).isEqualTo(2L);
+        assertThat(result.historyCount()).isEqualTo(3L);
+
+        assertThat(target.findUserPointByUserId(1L).point().getPoint()).isEqualTo(700L);
+        assertThat(target.findUserPointByUserId(2L).point().getPoint()).isEqualTo(500L);
+        assertThat(target.findPointRankByUserId(1L).rank()).isEqualTo(1L);
+
+        List<PointHistory> histories = target.findAllPointHistoryByUserId(1L);
+        assertThat(histories).extracting(PointHistory::type)
+                             .containsExactly(TransactionType.CHARGE, TransactionType.USE);
+        assertThat(histories.get(0).id()).isLessThan(histories.get(1).id());
+    }
+
+    @Test
+    @DisplayName("형식이 올바르지 않은 줄이 있는 경우, IllegalImportRecordException 이 발생 하여야 한다.")
+    public void givenMalformedLine_whenCallingImportFrom_thenThrowsIllegalImportRecordException() {
+        final String ndjson = """
+                {"recordType":"USER_POINT","userId":1,"point":100,"updateMillis":0}
+                {"recordType":"HISTORY","userId":1,"point":100,"updateMillis":0}
+                """;
+
+        PointTransferService pointTransferService = new PointTransferService(Stubs.newPointService(), objectMapper);
+
+        // 이력(HISTORY) 인데 type 이 없는 경우..
+        assertThatThrownBy(() -> pointTransferService.importFrom(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8))))
+                .isInstanceOf(IllegalImportRecordException.class)
+                .hasMessageContaining("line 2");
+    }
+
+    @Test
+    @DisplayName("필수 값(userId, point, updateMillis) 이 빠진 줄이 있는 경우, 0 으로 가져오지 않고 IllegalImportRecordException 이 발생 하여야 한다.")
+    public void givenRecordWithoutUserId_whenCallingImportFrom_thenThrowsIllegalImportRecordException() {
+        final String ndjson = """
+                {"recordType":"USER_POINT"}
+                """;
+
+        PointService pointService = Stubs.newPointService();
+        PointTransferService pointTransferService = new PointTransferService(pointService, objectMapper);
+
+        assertThatThrownBy(() -> pointTransferService.importFrom(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8))))
+                .isInstanceOf(IllegalImportRecordException.class)
+                .hasMessageContaining("line 1");
+        assertThat(pointService.findAllUserIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("충전 후 잔액을 가져오면, 기존 충전분이 아닌 가져온 잔액 전체가 소멸 대상이 되어야 한다.")
+    public void givenChargedPoint_whenImportingUserPointAndExpiring_thenExpiresImportedPoint() {
+        // given
+        PointService pointService = Stubs.newPointService();
+        pointService.chargePoint(1L, 1_000L);
+
+        final long importedMillis = System.currentTimeMillis();
+        pointService.importUserPoint(1L, 5_000L, importedMillis);
+
+        // when
+        int expiredCount = pointService.expireDuePoints(importedMillis + Stubs.defaultExpiryProperties().ttl().plusHours(2).toMillis(), 100);
+
+        // then -> 충전분(1,000) 이 따로 소멸되지 않고, 가져온 5,000 이 한 번에 소멸
+        assertThat(expiredCount).isEqualTo(1);
+        assertThat(pointService.findUserPointByUserId(1L).point().getPoint()).isZero();
+        assertThat(pointService.findAllPointHistoryByUserId(1L))
+                .filteredOn(pointHistory -> pointHistory.type() == TransactionType.EXPIRE)
+                .extracting(PointHistory::amount)
+                .containsExactly(5_000L);
+    }
+
+    @Test
+    @DisplayName("잔액 없이 이력만 있는 회원을 가져온 경우에도, 다시 내보내면 이력이 빠지지 않아야 한다.")
+    public void givenHistoriesWithoutUserPoint_whenExportingAfterImport_thenKeepsHistories() throws IOException {
+        // given
+        final String ndjson = """
+                {"recordType":"HISTORY","userId":3,"point":100,"type":"CHARGE","updateMillis":0}
+                {"recordType":"HISTORY","userId":3,"point":100,"type":"USE","updateMillis":1}
+                """;
+
+        PointTransferService pointTransferService = new PointTransferService(Stubs.newPointService(), objectMapper);
+        pointTransferService.importFrom(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        // when
+        ByteArrayOutputStream exported = new ByteArrayOutputStream();
+        pointTransferService.exportTo(exported);
+
+        // then -> 잔액(0) 1 줄 + 이력 2 줄
+        assertThat(exported.toString(StandardCharsets.UTF_8).lines()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("이력의 포인트가 음수인 경우, 저장하지 않고 줄 번호와 함께 IllegalImportRecordException 이 발생 하여야 한다.")
+    public void givenNegativeHistoryPoint_whenCallingImportFrom_thenThrowsIllegalImportRecordException() {
+        final String ndjson = """
+                {"recordType":"USER_POINT","userId":1,"point":100,"updateMillis":0}
+                {"recordType":"HISTORY","userId":1,"point":-100,"type":"CHARGE","updateMillis":0}
+                """;
+
+        PointService pointService = Stubs.newPointService();
+        PointTransferService pointTransferService = new PointTransferService(pointService, objectMapper);
+
+        assertThatThrownBy(() -> pointTransferService.importFrom(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8))))
+                .isInstanceOf(IllegalImportRecordException.class)
+                .hasMessageContaining("line 2");
+        assertThat(pointService.findAllPointHistoryByUserId(1L)).isEmpty();
+    }
+}
@@ -0,0 +1,85 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.web.context.support.ServletRequestHandledEvent;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 예열 요청이 실제 Table 을 거치므로 Table 의 지연(throttle) 만큼 기동 시간이 걸린다.
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "point.warmup.enabled=true",
+                "point.warmup.iterations=100",
+                "point.warmup.requests=1"
+        }
+)
+class PointWarmUpRunnerTest {
+
+    @Autowired
+    private PointWarmUpProperties properties;
+    @Autowired
+    private UserPointTable userPointTable;
+    @Autowired
+    private PointHistoryTable pointHistoryTable;
+    @Autowired
+    private PointRankingIndex pointRankingIndex;
+    @Autowired
+    private ReadinessRecorder readinessRecorder;
+
+    @Test
+    @DisplayName("예열이 끝난 뒤에도, 예열에 사용한 회원의 잔액과 이력은 변경되지 않아야 한다.")
+    public void givenWarmUpEnabled_whenStarted_thenLeavesNoData() {
+        final long userId = properties.userId();
+
+        assertThat(userPointTable.selectById(userId).point().getPoint()).isZero();
+        assertThat(pointHistoryTable.selectAllByUserId(userId)).isEmpty();
+        assertThat(pointRankingIndex.contains(userId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("예열 요청을 처리하는 동안에는, readiness 가 ACCEPTING_TRAFFIC 이 아니어야 한다.")
+    public void givenWarmUpEnabled_whenHandlingWarmUpRequests_thenRefusesTraffic() {
+        // 조회 4 + 충전/사용 2 (point.warmup.requests=1)
+        assertThat(readinessRecorder.states).hasSize(6)
+                                            .containsOnly(ReadinessState.REFUSING_TRAFFIC);
+    }
+
+    @TestConfiguration
+    static class ReadinessRecorderConfiguration {
+        @Bean
+        ReadinessRecorder readinessRecorder(final ApplicationAvailability applicationAvailability) {
+            return new ReadinessRecorder(applicationAvailability);
+        }
+    }
+
+    // 예열 요청(/point/**) 이 처리된 시점의 readiness 를 기록..
+    static class ReadinessRecorder {
+        private final ApplicationAvailability applicationAvailability;
+        private final List<ReadinessState> states = new CopyOnWriteArrayList<>();
+
+        ReadinessRecorder(final ApplicationAvailability applicationAvailability) {
+            this.applicationAvailability = applicationAvailability;
+        }
+
+        @EventListener
+        public void onRequestHandled(final ServletRequestHandledEvent event) {
+            if (event.getRequestUrl().startsWith("/point/")) {
+                states.add(applicationAvailability.getReadinessState());
+            }
+        }
+    }
+}
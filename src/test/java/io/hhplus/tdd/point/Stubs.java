@@ -1,7 +1,10 @@
 package io.hhplus.tdd.point;
 
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
 import org.junit.jupiter.params.provider.Arguments;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -17,4 +20,22 @@ public class Stubs {
         return Stream.of(Arguments.of(historyStubs));
     }
 
+    public static PointExpiryProperties defaultExpiryProperties() {
+        return new PointExpiryProperties(Duration.ofDays(30), Duration.ofHours(1), 100, Duration.ofMinutes(1));
+    }
+
+    // 실제 Table 객체를 사용하므로 Table 의 지연(throttle) 만큼 수행 시간이 걸린다.
+    public static PointService newPointService() {
+        return newPointService(new UserPointTable());
+    }
+
+    public static PointService newPointService(final UserPointTable userPointTable) {
+        return new PointService(
+                userPointTable,
+                new PointHistoryTable(),
+                new PointExpiryIndex(defaultExpiryProperties()),
+                new PointRankingIndex()
+        );
+    }
+
 }